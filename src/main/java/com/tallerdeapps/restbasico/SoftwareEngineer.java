@@ -1,11 +1,13 @@
 package com.tallerdeapps.restbasico;
 
 import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 
 /**
  * Entidad que representa a un ingeniero de software dentro del sistema.
@@ -25,6 +27,7 @@ import jakarta.persistence.Id;
  *     name varchar(255),
  *     tech_stack varchar(255),
  *     learning_path_recommendation text,
+ *     version bigint default 0 not null,
  *     primary key (id)
  * );
  * }</pre>
@@ -68,6 +71,17 @@ public class SoftwareEngineer {
     @Column(columnDefinition = "TEXT")
     private String learningPathRecommendation;
 
+    /**
+     * Versión del registro para el bloqueo optimista de JPA.
+     * <p>Hibernate la incrementa en cada actualización; las filas existentes
+     * reciben {@code 0} al añadirse la columna.</p>
+     * <p>Es de tipo primitivo para que Spring Data siga decidiendo si la entidad es nueva
+     * a partir de {@code id}. No forma parte del JSON de la API.</p>
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+
     /**
      * Constructor por defecto requerido por JPA.
      */
@@ -161,6 +175,16 @@ public class SoftwareEngineer {
         this.learningPathRecommendation = learningPathRecommendation;
     }
 
+    /**
+     * Obtiene la versión actual del registro.
+     * 
+     * @return la versión; {@code 0} si la entidad aún no se ha persistido
+     */
+    @JsonIgnore
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(id, name, techStack, learningPathRecommendation);
@@ -1,6 +1,8 @@
 package com.tallerdeapps.restbasico;
 
 import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -24,21 +26,30 @@ import org.springframework.web.bind.annotation.RestController;
  *
  * <p>Este controlador delega toda la lógica de negocio a {@link SoftwareEngineerService}
  * y sigue las convenciones REST estándar para códigos de respuesta HTTP.</p>
+ *
+ * <p>Si {@link SoftwareEngineerJsonCache} está activa, las respuestas GET se escriben con los bytes
+ * JSON que reutiliza la caché; si no, se devuelven las entidades y Jackson las serializa
+ * directamente sobre la respuesta.</p>
  */
 @RestController
 @RequestMapping("api/v1/software-engineers")
 public class SoftwareEngineerController {
 
     private final SoftwareEngineerService softwareEngineerService;
+    private final SoftwareEngineerJsonCache jsonCache;
 
     /**
-     * Crea una nueva instancia del controlador inyectando la dependencia del servicio.
+     * Crea una nueva instancia del controlador inyectando sus dependencias.
      *
      * @param softwareEngineerService servicio que proporciona la lógica de negocio;
      *                                no debe ser {@code null}.
+     * @param jsonCache caché de fragmentos JSON usada en las respuestas GET;
+     *                  no debe ser {@code null}.
      */
-    public SoftwareEngineerController(SoftwareEngineerService softwareEngineerService) {
+    public SoftwareEngineerController(SoftwareEngineerService softwareEngineerService,
+                                      SoftwareEngineerJsonCache jsonCache) {
         this.softwareEngineerService = softwareEngineerService;
+        this.jsonCache = jsonCache;
     }
 
     /**
@@ -52,11 +63,17 @@ public class SoftwareEngineerController {
      * ]
      * }</pre>
      *
-     * @return lista de {@link SoftwareEngineer}; vacía si no hay registros (HTTP 200).
+     * @return array JSON de {@link SoftwareEngineer}; vacío si no hay registros (HTTP 200).
      */
     @GetMapping
-    public List<SoftwareEngineer> getEngineers() {
-        return softwareEngineerService.getAllSoftwareEngineers();
+    public ResponseEntity<?> getEngineers() {
+        List<SoftwareEngineer> engineers = softwareEngineerService.getAllSoftwareEngineers();
+        if (!jsonCache.isEnabled()) {
+            return ResponseEntity.ok(engineers);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonCache.toJsonArray(engineers));
     }
 
     /**
@@ -86,12 +103,18 @@ public class SoftwareEngineerController {
      * <p><strong>Ejemplo:</strong> {@code GET /api/v1/software-engineers/5}</p>
      *
      * @param id identificador del ingeniero; no debe ser {@code null}.
-     * @return el objeto {@link SoftwareEngineer} correspondiente al ID solicitado (HTTP 200).
+     * @return el JSON del {@link SoftwareEngineer} correspondiente al ID solicitado (HTTP 200).
      * @throws org.springframework.web.server.ResponseStatusException si no se encuentra el registro.
      */
     @GetMapping("{id}")
-    public SoftwareEngineer getEngineerById(@PathVariable Integer id) {
-        return softwareEngineerService.getSoftwareEngineersById(id);
+    public ResponseEntity<?> getEngineerById(@PathVariable Integer id) {
+        SoftwareEngineer engineer = softwareEngineerService.getSoftwareEngineersById(id);
+        if (!jsonCache.isEnabled()) {
+            return ResponseEntity.ok(engineer);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonCache.toJson(engineer));
     }
 
     /**
@@ -0,0 +1,169 @@
+package com.tallerdeapps.restbasico;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Caché de fragmentos JSON ya serializados (UTF-8) para entidades {@link SoftwareEngineer}.
+ *
+ * <p>Evita que cada petición GET vuelva a recorrer la entidad con Jackson, especialmente
+ * el campo {@code learningPathRecommendation}, que puede ser un texto muy largo generado por la IA.</p>
+ *
+ * <p><strong>Comportamiento:</strong></p>
+ * <ul>
+ *   <li>Cada fragmento se asocia al par {@code (id, version)} de la entidad; solo se reutiliza si
+ *       la entidad leída tiene la misma {@link SoftwareEngineer#getVersion() versión}, por lo que
+ *       cualquier actualización (desde esta instancia o no) lo deja obsoleto automáticamente.</li>
+ *   <li>Un fragmento nunca sustituye a otro de una versión posterior, aunque una petición
+ *       lenta lo escriba después de la actualización.</li>
+ *   <li>Los listados se construyen concatenando los fragmentos cacheados: {@code [f1,f2,...]}.
+ *       Si tienen más elementos que la capacidad de la caché se serializan directamente, ya que
+ *       cada petición expulsaría los fragmentos que acaba de guardar.</li>
+ *   <li>Las entidades sin {@code id} se serializan sin cachear.</li>
+ *   <li>El número de entradas está limitado; se descartan las usadas menos recientemente,
+ *       lo que también libera las de registros borrados fuera de {@link SoftwareEngineerService}.</li>
+ * </ul>
+ *
+ * <p><strong>Configuración:</strong></p>
+ * En {@code application.properties}:
+ * <ul>
+ *   <li>{@code softwareengineer.json-cache.enabled} → activa la caché; si vale {@code false}
+ *       (por defecto) el controlador devuelve las entidades y Jackson las escribe en la respuesta.</li>
+ *   <li>{@code softwareengineer.json-cache.max-entries} → número máximo de ingenieros cacheados.</li>
+ * </ul>
+ */
+@Component
+public class SoftwareEngineerJsonCache {
+
+    /**
+     * Fragmento serializado junto con la versión de la entidad que lo originó.
+     */
+    private record Fragment(long version, byte[] json) {
+    }
+
+    private final Map<Integer, Fragment> fragments;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param objectMapper instancia de {@link ObjectMapper} configurada por Spring Boot
+     * @param enabled {@code true} para reutilizar los fragmentos serializados
+     * @param maxEntries número máximo de ingenieros cacheados (mayor que {@code 0})
+     * @throws IllegalArgumentException si {@code maxEntries} no es positivo
+     */
+    public SoftwareEngineerJsonCache(ObjectMapper objectMapper,
+                                     @Value("${softwareengineer.json-cache.enabled:false}") boolean enabled,
+                                     @Value("${softwareengineer.json-cache.max-entries:1000}") int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser positivo");
+        }
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.fragments = Collections.synchronizedMap(new LinkedHashMap<Integer, Fragment>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Fragment> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Indica si la caché está activa.
+     *
+     * @return {@code true} si los fragmentos serializados se reutilizan
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Devuelve la representación JSON de un ingeniero.
+     *
+     * @param softwareEngineer entidad a serializar (no {@code null})
+     * @return bytes UTF-8 del objeto JSON; no deben modificarse
+     * @throws IllegalStateException si Jackson no puede serializar la entidad
+     */
+    public byte[] toJson(SoftwareEngineer softwareEngineer) {
+        Integer id = softwareEngineer.getId();
+        long version = softwareEngineer.getVersion();
+        if (!enabled || id == null) {
+            return serialize(softwareEngineer);
+        }
+        Fragment cached = fragments.get(id);
+        if (cached != null && cached.version() == version) {
+            return cached.json();
+        }
+        byte[] json = serialize(softwareEngineer);
+        fragments.merge(id, new Fragment(version, json),
+                (previous, fresh) -> previous.version() >= fresh.version() ? previous : fresh);
+        return json;
+    }
+
+    /**
+     * Devuelve la representación JSON de una lista de ingenieros.
+     *
+     * <p>Con la caché activa, el array se compone copiando los fragmentos individuales
+     * en un único buffer del tamaño exacto. Las listas mayores que la capacidad de la caché
+     * se serializan sin cachear.</p>
+     *
+     * @param softwareEngineers entidades a serializar (no {@code null})
+     * @return bytes UTF-8 del array JSON
+     * @throws IllegalStateException si Jackson no puede serializar alguna entidad
+     */
+    public byte[] toJsonArray(List<SoftwareEngineer> softwareEngineers) {
+        if (!enabled || softwareEngineers.size() > maxEntries) {
+            return serialize(softwareEngineers);
+        }
+        byte[][] parts = new byte[softwareEngineers.size()][];
+        int length = 2 + Math.max(parts.length - 1, 0);
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = toJson(softwareEngineers.get(i));
+            length += parts[i].length;
+        }
+
+        byte[] json = new byte[length];
+        int offset = 0;
+        json[offset++] = '[';
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                json[offset++] = ',';
+            }
+            System.arraycopy(parts[i], 0, json, offset, parts[i].length);
+            offset += parts[i].length;
+        }
+        json[offset] = ']';
+        return json;
+    }
+
+    /**
+     * Descarta el fragmento cacheado de un ingeniero para liberar memoria.
+     *
+     * <p>No es necesario para la coherencia de las respuestas (de eso se encarga la versión);
+     * {@link SoftwareEngineerService} lo invoca al eliminar un registro.</p>
+     *
+     * @param id identificador del ingeniero; si es {@code null} no se hace nada
+     */
+    public void invalidate(Integer id) {
+        if (id != null) {
+            fragments.remove(id);
+        }
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar a JSON", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.tallerdeapps.restbasico;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import com.tallerdeapps.openaibasico.AiService;
 
@@ -23,6 +24,7 @@ public class SoftwareEngineerService {
 
     private final SoftwareEngineerRepository softwareEngineerRepository;
     private final AiService aiService;
+    private final SoftwareEngineerJsonCache jsonCache;
 
     /**
      * Constructor con inyección de dependencias.
@@ -31,17 +33,24 @@ public class SoftwareEngineerService {
      *                                   no puede ser {@code null}.
      * @param aiService servicio de IA para generar recomendaciones personalizadas;
      *                  no puede ser {@code null}.
+     * @param jsonCache caché de fragmentos JSON de la que se descartan los registros eliminados;
+     *                  no puede ser {@code null}.
      * @throws IllegalArgumentException si alguno de los parámetros es {@code null}.
      */
-    public SoftwareEngineerService(SoftwareEngineerRepository softwareEngineerRepository, AiService aiService) {
+    public SoftwareEngineerService(SoftwareEngineerRepository softwareEngineerRepository, AiService aiService,
+                                   SoftwareEngineerJsonCache jsonCache) {
         if (softwareEngineerRepository == null) {
             throw new IllegalArgumentException("El repositorio no puede ser nulo");
         }
         if (aiService == null) {
             throw new IllegalArgumentException("El servicio de IA no puede ser nulo");
         }
+        if (jsonCache == null) {
+            throw new IllegalArgumentException("La caché JSON no puede ser nula");
+        }
         this.softwareEngineerRepository = softwareEngineerRepository;
         this.aiService = aiService;
+        this.jsonCache = jsonCache;
     }
 
     /**
@@ -69,13 +78,15 @@ public class SoftwareEngineerService {
      * <ol>
      *   <li>Valida que la entidad no sea {@code null}.</li>
      *   <li>Genera una recomendación personalizada a partir del perfil técnico y nombre.</li>
-     *   <li>Guarda el registro en la base de datos con la recomendación incluida.</li>
+     *   <li>Si el {@code id} indicado ya existe, actualiza ese registro (y su versión);
+     *       en caso contrario, inserta uno nuevo con identificador generado.</li>
      * </ol>
      *
      * @param softwareEngineer entidad {@link SoftwareEngineer} a insertar (no {@code null}).
      * @throws IllegalArgumentException si el parámetro {@code softwareEngineer} es {@code null}.
-     * @apiNote Este método realiza una inserción o actualización según el estado del identificador
-     *          de la entidad, conforme al comportamiento estándar de {@code save()}.
+     * @apiNote Este método realiza una inserción o actualización según el identificador recibido.
+     *          La actualización se hace sobre la entidad cargada de la base de datos para respetar
+     *          su {@code @Version}; un {@code id} inexistente se ignora y se genera uno nuevo.
      */
     public void insertSoftwareEngineer(SoftwareEngineer softwareEngineer) {
         if (softwareEngineer == null) {
@@ -91,6 +102,19 @@ public class SoftwareEngineerService {
         System.out.println("Respuesta AI → " + chatResponse);
 
         softwareEngineer.setLearningPathRecommendation(chatResponse);
+
+        if (softwareEngineer.getId() != null) {
+            Optional<SoftwareEngineer> existing = softwareEngineerRepository.findById(softwareEngineer.getId());
+            if (existing.isPresent()) {
+                SoftwareEngineer stored = existing.get();
+                stored.setName(softwareEngineer.getName());
+                stored.setTechStack(softwareEngineer.getTechStack());
+                stored.setLearningPathRecommendation(chatResponse);
+                softwareEngineerRepository.save(stored);
+                return;
+            }
+            softwareEngineer.setId(null);
+        }
         softwareEngineerRepository.save(softwareEngineer);
     }
 
@@ -124,6 +148,7 @@ public class SoftwareEngineerService {
      * <ol>
      *   <li>Valida que el ID no sea {@code null}.</li>
      *   <li>Invoca {@link SoftwareEngineerRepository#deleteById(Object)} para eliminar el registro.</li>
+     *   <li>Libera su fragmento en {@link SoftwareEngineerJsonCache}.</li>
      * </ol>
      *
      * @param id identificador del ingeniero a eliminar (no {@code null}).
@@ -135,6 +160,7 @@ public class SoftwareEngineerService {
             throw new IllegalArgumentException("El identificador no puede ser nulo");
         }
         softwareEngineerRepository.deleteById(id);
+        jsonCache.invalidate(id);
     }
 
     /**
@@ -144,7 +170,7 @@ public class SoftwareEngineerService {
      * <ol>
      *   <li>Valida que el ID y la entidad no sean {@code null}.</li>
      *   <li>Verifica la existencia del registro mediante {@link SoftwareEngineerRepository#findById(Object)}.</li>
-     *   <li>Actualiza los campos editables y guarda los cambios.</li>
+     *   <li>Actualiza los campos editables y guarda los cambios (incrementando su versión).</li>
      * </ol>
      *
      * @param id identificador del ingeniero a actualizar (no {@code null}).
@@ -0,0 +1,152 @@
+package com.tallerdeapps.restbasico;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmark JMH de {@link SoftwareEngineerJsonCache} frente a la serialización directa con Jackson.
+ *
+ * <p>Mide el rendimiento (operaciones por segundo) y, mediante {@link GCProfiler}, la memoria
+ * reservada por operación ({@code gc.alloc.rate.norm}) de los dos caminos GET del controlador
+ * (un ingeniero y el listado completo) según {@code mode}:</p>
+ * <ul>
+ *   <li>{@code streaming} → referencia: {@link ObjectMapper#writeValue(OutputStream, Object)} sobre
+ *       un flujo que descarta los bytes, como hace el conversor de Spring con la caché desactivada.</li>
+ *   <li>{@code serialized} → {@link SoftwareEngineerJsonCache} desactivada, que genera un
+ *       {@code byte[]} por respuesta con {@link ObjectMapper#writeValueAsBytes(Object)}.</li>
+ *   <li>{@code cached} → {@link SoftwareEngineerJsonCache} activa, reutilizando fragmentos.</li>
+ * </ul>
+ *
+ * <p>Las entidades se reutilizan entre operaciones: la caché solo consulta {@code id} y
+ * {@code version}, así que el resultado es el mismo que con las instancias nuevas que
+ * devuelve JPA en cada petición.</p>
+ *
+ * <p><strong>Ejecución:</strong></p>
+ * <pre>{@code
+ * ./mvnw -Pbenchmark clean test-compile exec:exec
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoftwareEngineerJsonCacheBenchmark {
+
+    @Param({"streaming", "serialized", "cached"})
+    public String mode;
+
+    @Param({"50"})
+    public int engineers;
+
+    @Param({"4096"})
+    public int recommendationLength;
+
+    private final OutputStream response = new DiscardingOutputStream();
+    private ObjectMapper objectMapper;
+    private SoftwareEngineerJsonCache jsonCache;
+    private List<SoftwareEngineer> page;
+    private SoftwareEngineer single;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        jsonCache = new SoftwareEngineerJsonCache(objectMapper, "cached".equals(mode), 1000);
+        page = new ArrayList<>();
+        for (int i = 1; i <= engineers; i++) {
+            page.add(engineer(i));
+        }
+        single = engineer(1);
+    }
+
+    @Benchmark
+    public void getEngineerById(Blackhole blackhole) throws IOException {
+        if ("streaming".equals(mode)) {
+            objectMapper.writeValue(response, single);
+        } else {
+            blackhole.consume(jsonCache.toJson(single));
+        }
+    }
+
+    @Benchmark
+    public void getEngineers(Blackhole blackhole) throws IOException {
+        if ("streaming".equals(mode)) {
+            objectMapper.writeValue(response, page);
+        } else {
+            blackhole.consume(jsonCache.toJsonArray(page));
+        }
+    }
+
+    private SoftwareEngineer engineer(int id) {
+        SoftwareEngineer engineer = new SoftwareEngineer(id, "Ingeniero " + id,
+                "Java, Spring Boot, PostgreSQL", recommendation(id));
+        ReflectionTestUtils.setField(engineer, "version", 0L);
+        return engineer;
+    }
+
+    /**
+     * Genera un texto parecido a una respuesta de la IA: párrafos con acentos, comillas
+     * y saltos de línea que Jackson debe escapar.
+     */
+    private String recommendation(int id) {
+        String paragraph = """
+            Paso %d: profundiza en "Spring Boot" y JPA, practica la creación de APIs REST, \
+            pruebas automáticas y despliegue con Docker. Después, estudia optimización de \
+            consultas, caché y observabilidad.
+            """.formatted(id);
+        StringBuilder text = new StringBuilder(recommendationLength + paragraph.length());
+        while (text.length() < recommendationLength) {
+            text.append(paragraph);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Flujo que descarta lo escrito, en lugar del socket de la respuesta HTTP.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    /**
+     * Ejecuta los benchmarks con el perfilador de memoria de JMH.
+     *
+     * @param args argumentos de línea de comandos (no se usan)
+     * @throws RunnerException si JMH no puede ejecutar los benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SoftwareEngineerJsonCacheBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
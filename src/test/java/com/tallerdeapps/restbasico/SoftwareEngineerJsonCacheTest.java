@@ -0,0 +1,148 @@
+package com.tallerdeapps.restbasico;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SoftwareEngineerJsonCacheTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@ParameterizedTest
+	@CsvSource({
+		"true, 0", "true, 1", "true, 5",
+		"false, 0", "false, 1", "false, 5"
+	})
+	void toJsonArrayMatchesJackson(boolean enabled, int size) throws Exception {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, enabled, 1000);
+		List<SoftwareEngineer> engineers = new ArrayList<>();
+		for (int i = 1; i <= size; i++) {
+			engineers.add(engineer(i, 0L, "Ingeniero " + i));
+		}
+
+		byte[] expected = objectMapper.writeValueAsBytes(engineers);
+
+		assertThat(cache.toJsonArray(engineers)).isEqualTo(expected);
+		// Segunda llamada: con la caché activa se compone a partir de los fragmentos
+		assertThat(cache.toJsonArray(engineers)).isEqualTo(expected);
+	}
+
+	@Test
+	void toJsonArraySkipsCacheWhenLargerThanCapacity() throws Exception {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 2);
+		byte[] first = cache.toJson(engineer(1, 0L, "Ana"));
+		List<SoftwareEngineer> engineers = List.of(
+				engineer(1, 0L, "Ana"), engineer(2, 0L, "Carlos"), engineer(3, 0L, "María"));
+
+		assertThat(cache.toJsonArray(engineers)).isEqualTo(objectMapper.writeValueAsBytes(engineers));
+		// El listado no ha pasado por la caché, así que no ha expulsado el fragmento previo
+		assertThat(cache.toJson(engineer(1, 0L, "Ana"))).isSameAs(first);
+	}
+
+	@Test
+	void toJsonReusesFragmentForSameVersion() throws Exception {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+
+		byte[] first = cache.toJson(engineer(1, 0L, "Ana"));
+		byte[] second = cache.toJson(engineer(1, 0L, "Ana"));
+
+		assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(engineer(1, 0L, "Ana")));
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void toJsonReserializesModifiedEntity() throws Exception {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+		cache.toJson(engineer(1, 0L, "Ana"));
+
+		SoftwareEngineer updated = engineer(1, 1L, "Ana López");
+
+		assertThat(cache.toJson(updated)).isEqualTo(objectMapper.writeValueAsBytes(updated));
+	}
+
+	@Test
+	void toJsonKeepsNewerVersionWhenStaleEntityArrives() throws Exception {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+		byte[] newer = cache.toJson(engineer(1, 1L, "Ana López"));
+
+		SoftwareEngineer stale = engineer(1, 0L, "Ana");
+
+		assertThat(cache.toJson(stale)).isEqualTo(objectMapper.writeValueAsBytes(stale));
+		assertThat(cache.toJson(engineer(1, 1L, "Ana López"))).isSameAs(newer);
+	}
+
+	@Test
+	void toJsonBypassesCacheWithoutId() {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+		SoftwareEngineer withoutId = engineer(null, 0L, "Ana");
+
+		assertThat(cache.toJson(withoutId)).isNotSameAs(cache.toJson(withoutId));
+	}
+
+	@Test
+	void toJsonOmitsVersion() throws Exception {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+
+		assertThat(objectMapper.readTree(cache.toJson(engineer(1, 3L, "Ana"))).has("version")).isFalse();
+	}
+
+	@Test
+	void toJsonDoesNotCacheWhenDisabled() {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, false, 1000);
+		SoftwareEngineer engineer = engineer(1, 0L, "Ana");
+
+		assertThat(cache.toJson(engineer)).isNotSameAs(cache.toJson(engineer));
+	}
+
+	@Test
+	void invalidateRemovesFragment() {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+		byte[] first = cache.toJson(engineer(1, 0L, "Ana"));
+
+		cache.invalidate(1);
+
+		assertThat(cache.toJson(engineer(1, 0L, "Ana"))).isNotSameAs(first);
+	}
+
+	@Test
+	void invalidateNullDoesNothing() {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 1000);
+		byte[] first = cache.toJson(engineer(1, 0L, "Ana"));
+
+		cache.invalidate(null);
+
+		assertThat(cache.toJson(engineer(1, 0L, "Ana"))).isSameAs(first);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedFragment() {
+		SoftwareEngineerJsonCache cache = new SoftwareEngineerJsonCache(objectMapper, true, 2);
+		byte[] first = cache.toJson(engineer(1, 0L, "Ana"));
+		byte[] second = cache.toJson(engineer(2, 0L, "Carlos"));
+		cache.toJson(engineer(1, 0L, "Ana"));
+		cache.toJson(engineer(3, 0L, "María"));
+
+		assertThat(cache.toJson(engineer(1, 0L, "Ana"))).isSameAs(first);
+		assertThat(cache.toJson(engineer(2, 0L, "Carlos"))).isNotSameAs(second);
+	}
+
+	@Test
+	void rejectsNonPositiveMaxEntries() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new SoftwareEngineerJsonCache(objectMapper, true, 0));
+	}
+
+	private static SoftwareEngineer engineer(Integer id, long version, String name) {
+		SoftwareEngineer engineer = new SoftwareEngineer(id, name, "Java, Spring",
+				"Recomendación para " + name + ": \"Spring Boot\", JPA y pruebas.\n");
+		ReflectionTestUtils.setField(engineer, "version", version);
+		return engineer;
+	}
+}